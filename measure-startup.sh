@@ -0,0 +1,120 @@
+#!/bin/bash
+# ─────────────────────────────────────────────────────────────────────
+# measure-startup.sh — Cold-start and first-request latency check
+# Usage: ./measure-startup.sh [user-service] [post-service]
+#
+# Runs each service from its fast-start build exactly as the Docker image
+# does (CDS archive + Spring AOT), against a reachable PostgreSQL. Measure
+# post-service together with user-service, which it calls for authors:
+#   USER_DB_URL  (default jdbc:postgresql://localhost:5432/userdb)
+#   POST_DB_URL  (default jdbc:postgresql://localhost:5432/postdb)
+#   DB_USERNAME / DB_PASSWORD as in application.properties
+#
+# Exits non-zero when a service exceeds MAX_STARTUP_MS (launch → healthy)
+# or MAX_FIRST_REQUEST_MS, so cold-start regressions fail the build.
+# ─────────────────────────────────────────────────────────────────────
+set -euo pipefail
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+MAX_STARTUP_MS="${MAX_STARTUP_MS:-15000}"
+MAX_FIRST_REQUEST_MS="${MAX_FIRST_REQUEST_MS:-1000}"
+SERVICES=("$@")
+[ ${#SERVICES[@]} -eq 0 ] && SERVICES=(user-service post-service)
+
+now_ms() { date +%s%3N; }
+
+# Port, main class, DB URL and first-request path for each service.
+# user-service listens on 8081, the default USER_SERVICE_URL of post-service.
+service_config() {
+  case "$1" in
+    user-service)
+      PORT=8081
+      MAIN_CLASS=com.socialapp.userservice.UserServiceApplication
+      SERVICE_DB_URL="${USER_DB_URL:-jdbc:postgresql://localhost:5432/userdb}"
+      FIRST_PATH=/users ;;
+    post-service)
+      PORT=8082
+      MAIN_CLASS=com.socialapp.postservice.PostServiceApplication
+      SERVICE_DB_URL="${POST_DB_URL:-jdbc:postgresql://localhost:5432/postdb}"
+      FIRST_PATH=/posts ;;
+    *)
+      echo "Unknown service: $1" >&2
+      exit 2 ;;
+  esac
+}
+
+# ─── Build ───────────────────────────────────────────────────────────
+echo "▶ Building with -Pfast-start (AOT + CDS training run)..."
+cd "${SCRIPT_DIR}"
+mvn clean package -Pfast-start -DskipTests -q
+echo "  ✔ Build complete"
+
+FAILED=0
+REPORT=()
+PIDS=()
+trap 'for pid in "${PIDS[@]:-}"; do [ -n "$pid" ] && kill "$pid" 2>/dev/null || true; done' EXIT
+
+for SERVICE in "${SERVICES[@]}"; do
+  service_config "${SERVICE}"
+  TARGET="${SCRIPT_DIR}/${SERVICE}/target"
+  LOG="${TARGET}/fast-start/startup.log"
+
+  echo ""
+  echo "▶ Starting ${SERVICE} on port ${PORT}..."
+  START=$(now_ms)
+  DB_URL="${SERVICE_DB_URL}" java \
+    -XX:SharedArchiveFile="${TARGET}/fast-start/app.jsa" \
+    -Dspring.aot.enabled=true \
+    -Dserver.port="${PORT}" \
+    -cp "${TARGET}/fast-start/lib/*" \
+    "${MAIN_CLASS}" > "${LOG}" 2>&1 &
+  PID=$!
+  PIDS+=("${PID}")
+
+  # Poll health until UP; the service is "started" once it can take traffic
+  until curl -sf "http://localhost:${PORT}/actuator/health" 2>/dev/null | grep -q '"status":"UP"'; do
+    if ! kill -0 "${PID}" 2>/dev/null; then
+      echo "  ✘ ${SERVICE} exited during startup, see ${LOG}"
+      exit 1
+    fi
+    sleep 0.1
+  done
+  STARTUP_MS=$(( $(now_ms) - START ))
+
+  # Spring's own view of startup (JVM start → ApplicationReadyEvent), in seconds
+  READY_S=$(curl -sf "http://localhost:${PORT}/actuator/metrics/application.ready.time" \
+    | sed -n 's/.*"value":\([0-9.E-]*\).*/\1/p')
+
+  read -r FIRST_CODE FIRST_S < <(curl -s -o /dev/null -w '%{http_code} %{time_total}\n' "http://localhost:${PORT}${FIRST_PATH}")
+  SECOND_S=$(curl -s -o /dev/null -w '%{time_total}' "http://localhost:${PORT}${FIRST_PATH}")
+  if [ "${FIRST_CODE}" != "200" ]; then
+    echo "  ✘ GET ${FIRST_PATH} returned HTTP ${FIRST_CODE}, see ${LOG}"
+    exit 1
+  fi
+  FIRST_MS=$(awk -v s="${FIRST_S}" 'BEGIN { printf "%d", s * 1000 }')
+  SECOND_MS=$(awk -v s="${SECOND_S}" 'BEGIN { printf "%d", s * 1000 }')
+  READY_MS=$(awk -v s="${READY_S:-0}" 'BEGIN { printf "%d", s * 1000 }')
+
+  STATUS="ok"
+  if [ "${STARTUP_MS}" -gt "${MAX_STARTUP_MS}" ] || [ "${FIRST_MS}" -gt "${MAX_FIRST_REQUEST_MS}" ]; then
+    STATUS="REGRESSION"
+    FAILED=1
+  fi
+  REPORT+=("$(printf '%-14s %10s %10s %14s %14s  %s' \
+    "${SERVICE}" "${STARTUP_MS}" "${READY_MS}" "${FIRST_MS}" "${SECOND_MS}" "${STATUS}")")
+  echo "  ✔ ${SERVICE} healthy after ${STARTUP_MS} ms"
+done
+
+# ─── Report ──────────────────────────────────────────────────────────
+echo ""
+echo "══════════════════════════════════════════════════════════════════════"
+echo " Cold start (limits: startup ${MAX_STARTUP_MS} ms, first request ${MAX_FIRST_REQUEST_MS} ms)"
+echo ""
+printf '%-14s %10s %10s %14s %14s  %s\n' "service" "healthy" "ready" "first req" "second req" "status"
+printf '%-14s %10s %10s %14s %14s\n' "" "(ms)" "(ms)" "(ms)" "(ms)"
+for LINE in "${REPORT[@]}"; do
+  echo "${LINE}"
+done
+echo "══════════════════════════════════════════════════════════════════════"
+
+exit "${FAILED}"
@@ -0,0 +1,57 @@
+package com.socialapp.postservice.config;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.socialapp.postservice.model.Post;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+/**
+ * Optional Hibernate second-level cache. Regions are declared with their size
+ * and expiry in application.conf (Caffeine JCache); Hibernate is handed this
+ * CacheManager and refuses to create undeclared, unbounded regions
+ * (missing_cache_strategy=fail). Checked at runtime rather than with a
+ * condition, so the AOT-processed build can still switch the cache on.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    // Hibernate names entity regions after the entity class
+    private static final String POST_REGION = Post.class.getName();
+
+    @Value("${spring.jpa.properties.hibernate.cache.use_second_level_cache:false}")
+    private boolean enabled;
+
+    @Bean(destroyMethod = "close")
+    CacheManager hibernateCacheManager() {
+        return Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(ObjectProvider<CacheManager> cacheManager) {
+        return properties -> {
+            if (enabled) {
+                properties.put(ConfigSettings.CACHE_MANAGER, cacheManager.getObject());
+            }
+        };
+    }
+
+    @Bean
+    MeterBinder postEntityCacheMetrics(ObjectProvider<CacheManager> cacheManager) {
+        return registry -> {
+            if (enabled) {
+                Cache<Object, Object> cache = cacheManager.getObject().getCache(POST_REGION);
+                JCacheMetrics.monitor(registry, cache);
+            }
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package com.socialapp.postservice.config;
+
+import com.socialapp.postservice.service.PostPartitionMaintenance;
+import com.socialapp.postservice.service.PostResponseCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Controller;
+
+@Configuration
+public class StartupConfig {
+
+    /**
+     * Beans that stay eager when spring.main.lazy-initialization is on.
+     * Migrations must finish before the pod reports ready, and building the
+     * EntityManagerFactory on the first request would just move startup cost
+     * onto a user call. The response cache registers its metrics on creation,
+     * and partition maintenance is only scheduled once its bean exists.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter eagerStartupBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                FlywayMigrationInitializer.class,
+                EntityManagerFactory.class,
+                PostResponseCache.class,
+                PostPartitionMaintenance.class);
+    }
+
+    /**
+     * Controllers, and through them the services, repositories and clients they
+     * use, are created at startup too. Otherwise the first request of every pod
+     * pays for building the whole call path.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter eagerControllers() {
+        return (beanName, beanDefinition, beanType) ->
+                AnnotatedElementUtils.hasAnnotation(beanType, Controller.class);
+    }
+
+    /**
+     * The CDS training run (spring.context.exit=onRefresh, see the fast-start
+     * profile) starts without a database. It runs AOT-processed like production,
+     * so the Flyway beans cannot be switched off by property; skip the migration
+     * itself instead.
+     */
+    @Bean
+    FlywayMigrationStrategy flywayMigrationStrategy(Environment environment) {
+        boolean trainingRun = "onRefresh".equalsIgnoreCase(environment.getProperty("spring.context.exit"));
+        return flyway -> {
+            if (!trainingRun) {
+                flyway.migrate();
+            }
+        };
+    }
+}
@@ -5,10 +5,12 @@ import com.socialapp.postservice.service.PostService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -27,10 +29,14 @@ public class PostController {
         return ResponseEntity.status(HttpStatus.CREATED).body(postService.createPost(request));
     }
 
-    // GET /posts — List all posts (newest first)
+    // GET /posts?limit=50&before=...&beforeId=... — Recent posts, newest first; page back
+    // with before/beforeId = createdAt/id of the last post received
     @GetMapping
-    public ResponseEntity<List<PostDto.PostResponse>> getAllPosts() {
-        return ResponseEntity.ok(postService.getAllPosts());
+    public ResponseEntity<List<PostDto.PostResponse>> getRecentPosts(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime before,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(postService.getRecentPosts(before, beforeId, limit));
     }
 
     // GET /posts/{id} — Get single post
@@ -39,10 +45,21 @@ public class PostController {
         return ResponseEntity.ok(postService.getPostById(id));
     }
 
-    // GET /posts/user/{userId} — All posts by a specific user
+    // POST /posts/batch — Get several posts in request order (not-found ids are marked)
+    @PostMapping("/batch")
+    public ResponseEntity<List<PostDto.BatchPostResult>> getPostsByIds(
+            @Valid @RequestBody PostDto.BatchGetRequest request) {
+        return ResponseEntity.ok(postService.getPostsByIds(request.getIds()));
+    }
+
+    // GET /posts/user/{userId}?limit=50&before=...&beforeId=... — Latest posts by a specific user, paged like GET /posts
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<PostDto.PostResponse>> getPostsByUser(@PathVariable Long userId) {
-        return ResponseEntity.ok(postService.getPostsByUser(userId));
+    public ResponseEntity<List<PostDto.PostResponse>> getPostsByUser(
+            @PathVariable Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime before,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(postService.getPostsByUser(userId, before, beforeId, limit));
     }
 
     // PATCH /posts/{id} — Update post content
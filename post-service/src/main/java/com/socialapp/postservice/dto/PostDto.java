@@ -1,9 +1,14 @@
 package com.socialapp.postservice.dto;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
 
 public class PostDto {
 
@@ -28,6 +33,24 @@ public class PostDto {
         private String imageUrl;
     }
 
+    @Data
+    public static class BatchGetRequest {
+
+        @NotEmpty(message = "ids must not be empty")
+        @Size(max = 100, message = "Cannot fetch more than 100 posts at once")
+        private List<@NotNull(message = "ids must not contain null") Long> ids;
+    }
+
+    // One entry per requested id, in request order; post is null when found is false
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BatchPostResult {
+        private Long id;
+        private boolean found;
+        private PostResponse post;
+    }
+
     @Data
     public static class PostResponse {
         private Long id;
@@ -40,6 +63,14 @@ public class PostDto {
         private String updatedAt;
     }
 
+    // Mirrors BatchGetRequest from user-service (POST /users/batch)
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UserBatchRequest {
+        private List<Long> ids;
+    }
+
     // Mirrors the UserResponse from user-service (used by WebClient deserialization)
     @Data
     public static class UserInfo {
@@ -2,6 +2,8 @@ package com.socialapp.postservice.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 @Entity
@@ -10,8 +12,12 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE) // only used when the second-level cache is enabled
 public class Post {
 
+    // The table's primary key is (id, created_at) because posts is partitioned on
+    // created_at (V2 migration); id alone is still unique
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -1,15 +1,47 @@
 package com.socialapp.postservice.repository;
 
 import com.socialapp.postservice.model.Post;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
 
-    List<Post> findByUserIdOrderByCreatedAtDesc(Long userId);
+    // posts is range-partitioned on created_at: keep both created_at bounds on
+    // timeline queries so Postgres only scans the partitions of one window.
+    // Pages are keyed on (createdAt, id): posts from `from` up to, excluding,
+    // the (before, beforeId) cursor.
 
-    List<Post> findAllByOrderByCreatedAtDesc();
+    @Query("select p from Post p where p.createdAt >= :from and p.createdAt <= :before "
+            + "and (p.createdAt < :before or p.id < :beforeId) "
+            + "order by p.createdAt desc, p.id desc")
+    List<Post> findPageBefore(@Param("from") LocalDateTime from,
+                              @Param("before") LocalDateTime before,
+                              @Param("beforeId") Long beforeId,
+                              Limit limit);
+
+    @Query("select p from Post p where p.userId = :userId "
+            + "and p.createdAt >= :from and p.createdAt <= :before "
+            + "and (p.createdAt < :before or p.id < :beforeId) "
+            + "order by p.createdAt desc, p.id desc")
+    List<Post> findPageBefore(@Param("userId") Long userId,
+                              @Param("from") LocalDateTime from,
+                              @Param("before") LocalDateTime before,
+                              @Param("beforeId") Long beforeId,
+                              Limit limit);
+
+    // Newest post older than a window, to skip windows with no posts
+    @Query("select max(p.createdAt) from Post p where p.createdAt < :before")
+    Optional<LocalDateTime> findLatestCreatedAtBefore(@Param("before") LocalDateTime before);
+
+    @Query("select max(p.createdAt) from Post p where p.userId = :userId and p.createdAt < :before")
+    Optional<LocalDateTime> findLatestCreatedAtBefore(@Param("userId") Long userId,
+                                                      @Param("before") LocalDateTime before);
 }
@@ -0,0 +1,126 @@
+package com.socialapp.postservice.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * Applies post cache invalidations published by any replica (see
+ * PostResponseCache.evictAfterCommit) to this instance's cache.
+ *
+ * LISTEN holds its connection for as long as the service runs, so it uses a
+ * dedicated connection rather than one of the pool's. The connection is checked
+ * between polls and re-opened after any failure; until it is back, the response
+ * cache is switched off.
+ */
+@Component
+@Slf4j
+public class PostCacheInvalidationListener {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(5);
+    // Fails reads on a connection that died without closing, so the loop reconnects
+    private static final Duration SOCKET_TIMEOUT = Duration.ofSeconds(30);
+
+    private final PostResponseCache postResponseCache;
+    private final String url;
+    private final Properties connectionProperties = new Properties();
+    private volatile boolean running;
+    private Thread thread;
+
+    public PostCacheInvalidationListener(PostResponseCache postResponseCache,
+                                         @Value("${spring.datasource.url}") String url,
+                                         @Value("${spring.datasource.username}") String username,
+                                         @Value("${spring.datasource.password}") String password) {
+        this.postResponseCache = postResponseCache;
+        this.url = url;
+        connectionProperties.setProperty("user", username);
+        connectionProperties.setProperty("password", password);
+        connectionProperties.setProperty("socketTimeout", String.valueOf(SOCKET_TIMEOUT.toSeconds()));
+        connectionProperties.setProperty("ApplicationName", "post-service cache invalidation");
+    }
+
+    // After startup, so it never delays readiness and never runs in the CDS training run
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!postResponseCache.isEnabled()) return;
+        running = true;
+        thread = new Thread(this::listen, "post-cache-invalidation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, connectionProperties)) {
+                receive(connection);
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Post cache invalidation listener disconnected, cache off until it reconnects: {}",
+                            e.getMessage());
+                }
+            } finally {
+                postResponseCache.setPeersInSync(false);
+            }
+            if (running) {
+                sleep(RETRY_DELAY);
+            }
+        }
+    }
+
+    private void receive(Connection connection) throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + PostResponseCache.INVALIDATION_CHANNEL);
+            postResponseCache.setPeersInSync(true);
+            log.info("Listening for post cache invalidations on {}", PostResponseCache.INVALIDATION_CHANNEL);
+            while (running) {
+                PGNotification[] notifications = pgConnection.getNotifications((int) POLL_TIMEOUT.toMillis());
+                if (notifications == null || notifications.length == 0) {
+                    // Nothing arrived: make sure the connection is still alive
+                    statement.execute("SELECT 1");
+                    continue;
+                }
+                for (PGNotification notification : notifications) {
+                    invalidate(notification.getParameter());
+                }
+            }
+        }
+    }
+
+    private void invalidate(String payload) {
+        try {
+            postResponseCache.invalidate(Long.valueOf(payload));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring post cache invalidation with payload '{}'", payload);
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.socialapp.postservice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the monthly partitions of the posts table in shape (see V2 migration):
+ * creates partitions ahead of time so inserts never miss one, and detaches
+ * partitions older than the retention period, then archives or drops them.
+ *
+ * Startup only creates missing partitions, so it adds little before the service
+ * reports ready; expiry runs on the daily schedule. Every replica runs it, so the
+ * work is guarded by a Postgres advisory lock and replicas that lose the race skip it.
+ */
+@Component
+@Slf4j
+public class PostPartitionMaintenance {
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("posts_p(\\d{6})");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final long ADVISORY_LOCK_KEY = 0x706f737473L; // "posts"
+    private static final String ARCHIVE_SCHEMA = "posts_archive";
+
+    private static final String ATTACHED_PARTITIONS =
+            "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                    + "WHERE i.inhparent = 'posts'::regclass AND NOT i.inhdetachpending";
+    private static final String DETACH_PENDING_PARTITIONS =
+            "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                    + "WHERE i.inhparent = 'posts'::regclass AND i.inhdetachpending";
+    // Plain posts_pYYYYMM tables next to posts; expiry only touches those past retention
+    private static final String DETACHED_PARTITIONS =
+            "SELECT c.relname FROM pg_class c "
+                    + "WHERE c.relkind = 'r' AND NOT c.relispartition "
+                    + "AND c.relnamespace = (SELECT relnamespace FROM pg_class WHERE oid = 'posts'::regclass)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final boolean dropExpired;
+
+    public PostPartitionMaintenance(JdbcTemplate jdbcTemplate,
+                                    @Value("${post-partitions.months-ahead:3}") int monthsAhead,
+                                    @Value("${post-partitions.retention-months:0}") int retentionMonths,
+                                    @Value("${post-partitions.expired-action:archive}") String expiredAction) {
+        if (!expiredAction.equals("archive") && !expiredAction.equals("drop")) {
+            throw new IllegalArgumentException(
+                    "post-partitions.expired-action must be 'archive' or 'drop', got: " + expiredAction);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.dropExpired = expiredAction.equals("drop");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        runLocked(this::createPartitions);
+    }
+
+    @Scheduled(cron = "${post-partitions.cron:0 15 3 * * *}")
+    public void maintainPartitions() {
+        runLocked(connection -> {
+            createPartitions(connection);
+            expirePartitions(connection);
+        });
+    }
+
+    private void runLocked(MaintenanceTask task) {
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                if (!tryLock(connection)) {
+                    log.info("Partition maintenance already running on another instance, skipping");
+                    return null;
+                }
+                try {
+                    task.run(connection);
+                } finally {
+                    unlock(connection);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("Partition maintenance failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void createPartitions(Connection connection) throws SQLException {
+        Set<YearMonth> existing = listPartitions(connection);
+        YearMonth current = YearMonth.from(LocalDate.now());
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            if (!existing.contains(month)) {
+                createPartition(connection, month);
+            }
+        }
+    }
+
+    // Must run in autocommit mode: DETACH PARTITION CONCURRENTLY cannot run inside a transaction
+    private void expirePartitions(Connection connection) throws SQLException {
+        if (retentionMonths <= 0) return;
+        YearMonth oldestKept = YearMonth.from(LocalDate.now()).minusMonths(retentionMonths);
+
+        // Finish expiries that an earlier run started but did not complete: a concurrent
+        // detach that was interrupted, or a detached table that was never archived or dropped.
+        // Only months past retention qualify; newer tables may be detached for maintenance
+        // or staged for a bulk load and are left to the operator.
+        for (YearMonth month : listMonths(connection, DETACH_PENDING_PARTITIONS)) {
+            if (month.isBefore(oldestKept)) {
+                log.info("Finishing interrupted detach of partition {}", partitionName(month));
+                expirePartition(connection, month, "FINALIZE");
+            }
+        }
+        for (YearMonth month : listMonths(connection, DETACHED_PARTITIONS)) {
+            if (month.isBefore(oldestKept)) {
+                log.info("Finishing expiry of detached partition {}", partitionName(month));
+                expirePartition(connection, month, null);
+            }
+        }
+
+        for (YearMonth month : listPartitions(connection)) {
+            if (month.isBefore(oldestKept)) {
+                expirePartition(connection, month, "CONCURRENTLY");
+            }
+        }
+    }
+
+    private Set<YearMonth> listPartitions(Connection connection) throws SQLException {
+        return listMonths(connection, ATTACHED_PARTITIONS);
+    }
+
+    private Set<YearMonth> listMonths(Connection connection, String sql) throws SQLException {
+        Set<YearMonth> months = new TreeSet<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            while (rs.next()) {
+                Matcher matcher = PARTITION_NAME.matcher(rs.getString(1));
+                if (matcher.matches()) {
+                    months.add(YearMonth.parse(matcher.group(1), SUFFIX));
+                }
+            }
+        }
+        return months;
+    }
+
+    private void createPartition(Connection connection, YearMonth month) throws SQLException {
+        String name = partitionName(month);
+        execute(connection, String.format(
+                "CREATE TABLE IF NOT EXISTS %s PARTITION OF posts FOR VALUES FROM ('%s') TO ('%s')",
+                name, month.atDay(1), month.plusMonths(1).atDay(1)));
+        log.info("Created partition {}", name);
+    }
+
+    /**
+     * Detach a partition (skipped when detachMode is null, i.e. it already is
+     * detached), then drop or archive it. Failures are logged and left for the
+     * next run, which picks up wherever this one stopped.
+     */
+    private void expirePartition(Connection connection, YearMonth month, String detachMode) {
+        String name = partitionName(month);
+        try {
+            if (detachMode != null) {
+                execute(connection, "ALTER TABLE posts DETACH PARTITION " + name + " " + detachMode);
+            }
+            if (dropExpired) {
+                execute(connection, "DROP TABLE " + name);
+                log.info("Dropped expired partition {}", name);
+            } else {
+                execute(connection, "ALTER TABLE " + name + " SET SCHEMA " + ARCHIVE_SCHEMA);
+                log.info("Archived expired partition {} to schema {}", name, ARCHIVE_SCHEMA);
+            }
+        } catch (SQLException e) {
+            log.error("Unable to expire partition {}: {}", name, e.getMessage());
+        }
+    }
+
+    private boolean tryLock(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT pg_try_advisory_lock(" + ADVISORY_LOCK_KEY + ")")) {
+            return rs.next() && rs.getBoolean(1);
+        }
+    }
+
+    private void unlock(Connection connection) throws SQLException {
+        execute(connection, "SELECT pg_advisory_unlock(" + ADVISORY_LOCK_KEY + ")");
+    }
+
+    @FunctionalInterface
+    private interface MaintenanceTask {
+        void run(Connection connection) throws SQLException;
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static String partitionName(YearMonth month) {
+        return "posts_p" + month.format(SUFFIX);
+    }
+}
@@ -0,0 +1,215 @@
+package com.socialapp.postservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.socialapp.postservice.dto.PostDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process cache of fully assembled PostResponse objects for hot posts.
+ * Entries are stored as serialized JSON bytes (one byte[] per post instead of a
+ * graph of Strings) and bounded by total byte weight, so the cache footprint is
+ * predictable and cheap for the GC to scan.
+ *
+ * Author fields come from User Service, so entries also expire after a fixed TTL
+ * to pick up profile changes that this service is never told about.
+ *
+ * Updates and deletes stamp the post id once they commit. Readers take a stamp
+ * before loading a post and put() refuses responses read before the post's last
+ * invalidation, so a read racing a commit cannot cache the old row.
+ *
+ * Every replica keeps its own cache, so invalidations are also published with
+ * Postgres NOTIFY (sent only if the transaction commits) and applied on every
+ * instance by PostCacheInvalidationListener. While that listener is not
+ * connected the cache serves and stores nothing, since it could miss changes
+ * made through other replicas.
+ */
+@Component
+@Slf4j
+public class PostResponseCache {
+
+    private static final String CACHE_NAME = "postResponses";
+    // Postgres notification channel; the payload is the post id
+    static final String INVALIDATION_CHANNEL = "post_cache_invalidation";
+
+    private final Cache<Long, byte[]> cache;
+    // Post id -> stamp of its last committed update or delete
+    private final Cache<Long, Long> invalidations;
+    private final AtomicLong stamps = new AtomicLong();
+    // Reads older than this stamp are never cached; raised when a stamp is evicted
+    // from invalidations for size and when the whole cache is invalidated
+    private final AtomicLong floorStamp = new AtomicLong();
+    // Whether invalidations from other replicas are being received
+    private volatile boolean peersInSync;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final long maxBytes;
+    private final long maxEntryBytes;
+
+    public PostResponseCache(ObjectMapper objectMapper,
+                             JdbcTemplate jdbcTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${post-cache.enabled:true}") boolean enabled,
+                             @Value("${post-cache.max-size:64MB}") DataSize maxSize,
+                             @Value("${post-cache.max-entry-size:16KB}") DataSize maxEntrySize,
+                             @Value("${post-cache.ttl:10m}") Duration ttl,
+                             @Value("${post-cache.invalidation-ttl:1m}") Duration invalidationTtl,
+                             @Value("${post-cache.invalidation-max-entries:100000}") long invalidationMaxEntries) {
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.maxBytes = maxSize.toBytes();
+        this.maxEntryBytes = maxEntrySize.toBytes();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long id, byte[] bytes) -> bytes.length)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.invalidations = Caffeine.newBuilder()
+                .maximumSize(invalidationMaxEntries)
+                .expireAfterWrite(invalidationTtl)
+                .evictionListener((Long id, Long stamp, RemovalCause cause) -> {
+                    if (cause == RemovalCause.SIZE && stamp != null) {
+                        floorStamp.accumulateAndGet(stamp, Math::max);
+                    }
+                })
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("posts.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Hit ratio of the hot-post response cache")
+                .register(meterRegistry);
+        Gauge.builder("posts.cache.memory.used", cache, PostResponseCache::weightedSize)
+                .description("Serialized bytes held by the hot-post response cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        // Gauges hold their object weakly; this component lives as long as the context
+        Gauge.builder("posts.cache.memory.max", this, c -> c.maxBytes)
+                .description("Byte budget of the hot-post response cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        log.info("Post response cache enabled={}, maxSize={}, maxEntrySize={}, ttl={}",
+                enabled, maxSize, maxEntrySize, ttl);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Optional<PostDto.PostResponse> get(Long id) {
+        if (!enabled || !peersInSync) return Optional.empty();
+        byte[] bytes = cache.getIfPresent(id);
+        if (bytes == null) return Optional.empty();
+        try {
+            return Optional.of(objectMapper.readValue(bytes, PostDto.PostResponse.class));
+        } catch (IOException e) {
+            log.warn("Dropping unreadable cache entry for post {}: {}", id, e.getMessage());
+            cache.invalidate(id);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stamp to take before loading posts from the database and hand to put().
+     */
+    public long readStamp() {
+        return stamps.get();
+    }
+
+    /**
+     * Cache a response loaded after readStamp() returned the given stamp. Ignored
+     * when the post was updated or deleted since then.
+     */
+    public void put(PostDto.PostResponse response, long readStamp) {
+        if (!enabled || !peersInSync || response.getId() == null) return;
+        Long id = response.getId();
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(response);
+            if (bytes.length <= maxEntryBytes && !invalidatedSince(id, readStamp)) {
+                cache.put(id, bytes);
+                // Re-check: an update or delete may have committed between the check and the put
+                if (invalidatedSince(id, readStamp)) {
+                    cache.invalidate(id);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Unable to cache post {}: {}", response.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Evict an updated or deleted post once the surrounding transaction commits,
+     * and stamp it so readers that loaded the row before the commit cannot cache
+     * it afterwards. Evicts immediately when called outside a transaction. Other
+     * replicas are notified through the same transaction, so they evict on commit too.
+     */
+    public void evictAfterCommit(Long id) {
+        if (!enabled) return;
+        jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", INVALIDATION_CHANNEL, id.toString());
+        afterCommit(() -> invalidate(id));
+    }
+
+    /**
+     * Evict a post changed by this or another replica and stamp it, like evictAfterCommit.
+     */
+    void invalidate(Long id) {
+        invalidations.put(id, stamps.incrementAndGet());
+        cache.invalidate(id);
+    }
+
+    /**
+     * Set by PostCacheInvalidationListener when it starts or stops receiving
+     * invalidations. Either way every entry and in-flight read is discarded:
+     * changes made while the listener was not connected were never seen.
+     */
+    void setPeersInSync(boolean inSync) {
+        peersInSync = inSync;
+        floorStamp.accumulateAndGet(stamps.incrementAndGet(), Math::max);
+        cache.invalidateAll();
+    }
+
+    private boolean invalidatedSince(Long id, long readStamp) {
+        // Covers stamps pushed out by a burst of writes and whole-cache invalidations
+        if (floorStamp.get() > readStamp) return true;
+        Long stamp = invalidations.getIfPresent(id);
+        return stamp != null && stamp > readStamp;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static double weightedSize(Cache<Long, byte[]> cache) {
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+}
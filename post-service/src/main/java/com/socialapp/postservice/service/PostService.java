@@ -3,22 +3,47 @@ package com.socialapp.postservice.service;
 import com.socialapp.postservice.dto.PostDto;
 import com.socialapp.postservice.model.Post;
 import com.socialapp.postservice.repository.PostRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 @Transactional
 public class PostService {
 
+    private static final int MAX_LIMIT = 200;
+
     private final PostRepository postRepository;
     private final UserServiceClient userServiceClient;
+    private final PostResponseCache postResponseCache;
+    // Span of created_at read per timeline query; bounds the partitions each query touches
+    private final Duration timelineWindow;
+
+    public PostService(PostRepository postRepository,
+                       UserServiceClient userServiceClient,
+                       PostResponseCache postResponseCache,
+                       @Value("${post-timeline.window:30d}") Duration timelineWindow) {
+        this.postRepository = postRepository;
+        this.userServiceClient = userServiceClient;
+        this.postResponseCache = postResponseCache;
+        this.timelineWindow = timelineWindow;
+    }
 
     public PostDto.PostResponse createPost(PostDto.CreatePostRequest request) {
         log.info("Creating post for userId: {}", request.getUserId());
@@ -39,31 +64,89 @@ public class PostService {
         return toResponse(saved, user);
     }
 
-    @Transactional(readOnly = true)
+    // SUPPORTS: cache hits should not open a transaction or borrow a DB connection
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public PostDto.PostResponse getPostById(Long id) {
+        Optional<PostDto.PostResponse> cached = postResponseCache.get(id);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        long readStamp = postResponseCache.readStamp();
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Post not found with id: " + id));
         PostDto.UserInfo user = userServiceClient.getUserById(post.getUserId()).orElse(null);
-        return toResponse(post, user);
+        PostDto.PostResponse response = toResponse(post, user);
+        postResponseCache.put(response, readStamp);
+        return response;
     }
 
-    @Transactional(readOnly = true)
-    public List<PostDto.PostResponse> getAllPosts() {
-        return postRepository.findAllByOrderByCreatedAtDesc()
-                .stream()
-                .map(post -> {
-                    PostDto.UserInfo user = userServiceClient.getUserById(post.getUserId()).orElse(null);
-                    return toResponse(post, user);
+    /**
+     * Hydrate several posts for one client round trip: cached posts are served
+     * from the response cache, the rest are loaded with a single IN query and
+     * their authors with a single deduplicated User Service call. Results follow
+     * the request order, with a not-found entry for ids that do not exist.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<PostDto.BatchPostResult> getPostsByIds(List<Long> ids) {
+        Map<Long, PostDto.PostResponse> responses = new HashMap<>();
+        Set<Long> misses = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (responses.containsKey(id) || misses.contains(id)) continue;
+            postResponseCache.get(id).ifPresentOrElse(
+                    response -> responses.put(id, response),
+                    () -> misses.add(id));
+        }
+
+        if (!misses.isEmpty()) {
+            long readStamp = postResponseCache.readStamp();
+            List<Post> posts = postRepository.findAllById(misses);
+            Set<Long> userIds = posts.stream().map(Post::getUserId).collect(Collectors.toSet());
+            Map<Long, PostDto.UserInfo> users = userServiceClient.getUsersByIds(userIds);
+            for (Post post : posts) {
+                PostDto.PostResponse response = toResponse(post, users.get(post.getUserId()));
+                postResponseCache.put(response, readStamp);
+                responses.put(post.getId(), response);
+            }
+        }
+
+        return ids.stream()
+                .map(id -> {
+                    PostDto.PostResponse response = responses.get(id);
+                    return new PostDto.BatchPostResult(id, response != null, response);
                 })
                 .collect(Collectors.toList());
     }
 
+    /**
+     * A page of the timeline, newest first, of posts before the (before, beforeId)
+     * cursor (from now when before is null). Clients page back with before and
+     * beforeId set to the createdAt and id of the last post they received; without
+     * beforeId, every post created at exactly before is skipped.
+     */
     @Transactional(readOnly = true)
-    public List<PostDto.PostResponse> getPostsByUser(Long userId) {
+    public List<PostDto.PostResponse> getRecentPosts(LocalDateTime before, Long beforeId, int limit) {
+        List<Post> posts = findPage(before, beforeId, limit,
+                postRepository::findPageBefore,
+                postRepository::findLatestCreatedAtBefore);
+        Set<Long> userIds = posts.stream().map(Post::getUserId).collect(Collectors.toSet());
+        Map<Long, PostDto.UserInfo> users = userServiceClient.getUsersByIds(userIds);
+        return posts.stream()
+                .map(post -> toResponse(post, users.get(post.getUserId())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * A page of one user's posts, newest first, paged like getRecentPosts.
+     */
+    @Transactional(readOnly = true)
+    public List<PostDto.PostResponse> getPostsByUser(Long userId, LocalDateTime before, Long beforeId, int limit) {
         PostDto.UserInfo user = userServiceClient.getUserById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
 
-        return postRepository.findByUserIdOrderByCreatedAtDesc(userId)
+        return findPage(before, beforeId, limit,
+                (from, to, toId, pageLimit) -> postRepository.findPageBefore(userId, from, to, toId, pageLimit),
+                time -> postRepository.findLatestCreatedAtBefore(userId, time))
                 .stream()
                 .map(post -> toResponse(post, user))
                 .collect(Collectors.toList());
@@ -77,6 +160,7 @@ public class PostService {
         if (request.getImageUrl() != null) post.setImageUrl(request.getImageUrl());
 
         Post updated = postRepository.save(post);
+        postResponseCache.evictAfterCommit(id);
         PostDto.UserInfo user = userServiceClient.getUserById(updated.getUserId()).orElse(null);
         return toResponse(updated, user);
     }
@@ -86,9 +170,50 @@ public class PostService {
             throw new RuntimeException("Post not found with id: " + id);
         }
         postRepository.deleteById(id);
+        postResponseCache.evictAfterCommit(id);
         log.info("Deleted post with id: {}", id);
     }
 
+    /**
+     * Keyset page of up to limit posts before the (created_at, id) cursor, read
+     * one timeline window at a time so every query is bounded on created_at and
+     * only touches the partitions of that window. Ties on created_at are broken
+     * by id, so posts sharing a timestamp across a page boundary are not skipped.
+     * When a window does not fill the page, the next one starts at the newest
+     * older post, so gaps between posts cost one lookup and no post is out of reach.
+     */
+    private List<Post> findPage(LocalDateTime before, Long beforeId, int limit,
+                                WindowQuery windowQuery,
+                                Function<LocalDateTime, Optional<LocalDateTime>> latestBefore) {
+        int max = checkLimit(limit);
+        LocalDateTime to = before != null ? before : LocalDateTime.now();
+        // No cursor id: include everything up to now, or nothing at before itself
+        long toId = before == null ? Long.MAX_VALUE : beforeId != null ? beforeId : Long.MIN_VALUE;
+        LocalDateTime from = to.minus(timelineWindow);
+        List<Post> posts = new ArrayList<>(windowQuery.find(from, to, toId, Limit.of(max)));
+        while (posts.size() < max) {
+            Optional<LocalDateTime> latest = latestBefore.apply(from);
+            if (latest.isEmpty()) break;
+            // Every post at the latest created_at is older than the window just read
+            to = latest.get();
+            from = to.minus(timelineWindow);
+            posts.addAll(windowQuery.find(from, to, Long.MAX_VALUE, Limit.of(max - posts.size())));
+        }
+        return posts;
+    }
+
+    @FunctionalInterface
+    private interface WindowQuery {
+        List<Post> find(LocalDateTime from, LocalDateTime to, Long toId, Limit limit);
+    }
+
+    private int checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        return limit;
+    }
+
     private PostDto.PostResponse toResponse(Post post, PostDto.UserInfo user) {
         PostDto.PostResponse response = new PostDto.PostResponse();
         response.setId(post.getId());
@@ -3,10 +3,19 @@ package com.socialapp.postservice.service;
 import com.socialapp.postservice.dto.PostDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -18,8 +27,30 @@ import java.util.Optional;
 @Slf4j
 public class UserServiceClient {
 
+    // Upper bound of POST /users/batch (UserDto.BatchGetRequest)
+    private static final int USER_BATCH_SIZE = 100;
+    private static final Duration WARM_UP_TIMEOUT = Duration.ofSeconds(2);
+
     private final WebClient userServiceWebClient;
 
+    /**
+     * Make one call to User Service once the service is ready, so the Netty
+     * connection pool and codecs are set up before the first request that needs
+     * author data. Fire-and-forget: it never delays startup, and User Service may
+     * not be up yet. The CDS training run exits before this event.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        userServiceWebClient.get()
+                .uri("/actuator/health")
+                .retrieve()
+                .toBodilessEntity()
+                .timeout(WARM_UP_TIMEOUT)
+                .subscribe(
+                        response -> log.debug("User service warm-up done"),
+                        e -> log.info("User service not reachable for warm-up: {}", e.getMessage()));
+    }
+
     /**
      * Fetch user info by ID. Returns empty if user is not found (404).
      * Throws for any other error.
@@ -41,4 +72,41 @@ public class UserServiceClient {
             throw new RuntimeException("Unable to reach user-service: " + e.getMessage(), e);
         }
     }
+
+    /**
+     * Fetch several users, keyed by id, in calls of at most USER_BATCH_SIZE ids.
+     * Ids unknown to User Service are simply absent from the map. Throws for any
+     * error, like getUserById.
+     */
+    public Map<Long, PostDto.UserInfo> getUsersByIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        log.debug("Fetching user info for {} userIds", userIds.size());
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(userIds));
+        Map<Long, PostDto.UserInfo> users = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += USER_BATCH_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + USER_BATCH_SIZE, ids.size()));
+            for (PostDto.UserInfo user : fetchUserBatch(chunk)) {
+                users.put(user.getId(), user);
+            }
+        }
+        return users;
+    }
+
+    private List<PostDto.UserInfo> fetchUserBatch(List<Long> userIds) {
+        try {
+            List<PostDto.UserInfo> users = userServiceWebClient.post()
+                    .uri("/users/batch")
+                    .bodyValue(new PostDto.UserBatchRequest(userIds))
+                    .retrieve()
+                    .bodyToFlux(PostDto.UserInfo.class)
+                    .collectList()
+                    .block(); // blocking call — acceptable in MVC context
+            return users == null ? Collections.emptyList() : users;
+        } catch (Exception e) {
+            log.error("Error calling user-service for {} userIds: {}", userIds.size(), e.getMessage());
+            throw new RuntimeException("Unable to reach user-service: " + e.getMessage(), e);
+        }
+    }
 }
@@ -0,0 +1,9 @@
+-- Initial schema, matching what ddl-auto=update generated from Post
+CREATE TABLE posts (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id    BIGINT       NOT NULL,
+    content    VARCHAR(280) NOT NULL,
+    image_url  VARCHAR(255),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6)
+);
@@ -0,0 +1,48 @@
+-- Range-partition posts by month of created_at.
+-- Partitions are named posts_pYYYYMM; PostPartitionMaintenance creates future
+-- ones and detaches expired ones into the posts_archive schema (or drops them).
+-- The primary key must include the partition key, so it becomes (id, created_at);
+-- id stays unique because it is still drawn from a single identity sequence.
+
+ALTER TABLE posts RENAME TO posts_unpartitioned;
+ALTER TABLE posts_unpartitioned RENAME CONSTRAINT posts_pkey TO posts_unpartitioned_pkey;
+ALTER TABLE posts_unpartitioned ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE TABLE posts (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_id    BIGINT       NOT NULL,
+    content    VARCHAR(280) NOT NULL,
+    image_url  VARCHAR(255),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6),
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- Timeline and per-user queries: newest-first index scans inside each partition,
+-- keyed on (created_at, id) like the list endpoints' page cursor
+CREATE INDEX idx_posts_created_at_id ON posts (created_at DESC, id DESC);
+CREATE INDEX idx_posts_user_id_created_at_id ON posts (user_id, created_at DESC, id DESC);
+
+CREATE SCHEMA IF NOT EXISTS posts_archive;
+
+-- Monthly partitions covering existing rows, the current month and the next three
+DO $$
+DECLARE
+    month      TIMESTAMP := date_trunc('month', LEAST(COALESCE((SELECT min(created_at) FROM posts_unpartitioned), now()), now()));
+    last_month TIMESTAMP := date_trunc('month', now()) + INTERVAL '3 months';
+BEGIN
+    WHILE month <= last_month LOOP
+        EXECUTE format('CREATE TABLE posts_p%s PARTITION OF posts FOR VALUES FROM (%L) TO (%L)',
+                       to_char(month, 'YYYYMM'), month, month + INTERVAL '1 month');
+        month := month + INTERVAL '1 month';
+    END LOOP;
+END $$;
+
+INSERT INTO posts (id, user_id, content, image_url, created_at, updated_at)
+SELECT id, user_id, content, image_url, created_at, updated_at
+FROM posts_unpartitioned;
+
+SELECT setval(pg_get_serial_sequence('posts', 'id'),
+              COALESCE((SELECT max(id) FROM posts), 0) + 1, false);
+
+DROP TABLE posts_unpartitioned;
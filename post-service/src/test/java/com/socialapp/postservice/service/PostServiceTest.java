@@ -0,0 +1,172 @@
+package com.socialapp.postservice.service;
+
+import com.socialapp.postservice.dto.PostDto;
+import com.socialapp.postservice.model.Post;
+import com.socialapp.postservice.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Keyset paging of the post lists (PostService.findPage) against an in-memory
+ * PostRepository that evaluates the window queries the way the JPQL does.
+ */
+class PostServiceTest {
+
+    private static final Duration WINDOW = Duration.ofDays(30);
+    private static final Comparator<Post> NEWEST_FIRST =
+            Comparator.comparing(Post::getCreatedAt).thenComparing(Post::getId).reversed();
+
+    private final List<Post> posts = new ArrayList<>();
+    private final LocalDateTime now = LocalDateTime.now().minusMinutes(1).truncatedTo(ChronoUnit.MICROS);
+    private PostRepository postRepository;
+    private PostService postService;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        when(postRepository.findPageBefore(any(), any(), any(), any())).thenAnswer(invocation ->
+                findPageBefore(invocation.getArgument(0), invocation.getArgument(1),
+                        invocation.getArgument(2), invocation.getArgument(3)));
+        when(postRepository.findLatestCreatedAtBefore(any())).thenAnswer(invocation ->
+                findLatestCreatedAtBefore(invocation.getArgument(0)));
+        postService = new PostService(postRepository, mock(UserServiceClient.class),
+                mock(PostResponseCache.class), WINDOW);
+    }
+
+    @Test
+    void postsSharingCreatedAtAcrossPageBoundaryAreAllReturned() {
+        for (long id = 1; id <= 5; id++) {
+            addPost(id, now.minusHours(1));
+        }
+        addPost(6, now.minusHours(2));
+
+        assertThat(pageThrough(2)).containsExactlyElementsOf(expectedIds());
+    }
+
+    @Test
+    void beforeWithoutBeforeIdSkipsPostsAtThatTime() {
+        LocalDateTime before = now.minusHours(1);
+        addPost(1, before);
+        addPost(2, before);
+        addPost(3, before.minusNanos(1000));
+        addPost(4, now);
+
+        List<Long> page = ids(postService.getRecentPosts(before, null, 10));
+
+        assertThat(page).containsExactly(3L);
+    }
+
+    @Test
+    void gapOfSeveralEmptyWindowsIsSkipped() {
+        addPost(1, now.minusDays(1));
+        addPost(2, now.minusDays(200));
+        addPost(3, now.minusDays(200));
+        addPost(4, now.minusDays(400));
+
+        assertThat(ids(postService.getRecentPosts(null, null, 10))).containsExactlyElementsOf(expectedIds());
+        assertThat(pageThrough(2)).containsExactlyElementsOf(expectedIds());
+    }
+
+    @Test
+    void limitOfOnePagesThroughEveryPost() {
+        addPost(1, now.minusDays(1));
+        addPost(2, now.minusDays(1));
+        addPost(3, now.minusDays(45));
+        addPost(4, now.minusDays(45));
+        addPost(5, now.minusDays(300));
+
+        assertThat(pageThrough(1)).containsExactlyElementsOf(expectedIds());
+    }
+
+    @Test
+    void limitOfTwoHundredFillsFullPages() {
+        for (long id = 1; id <= 250; id++) {
+            // Three posts a day, spread over more than one window
+            addPost(id, now.minusDays(id / 3));
+        }
+
+        List<PostDto.PostResponse> firstPage = postService.getRecentPosts(null, null, 200);
+
+        assertThat(firstPage).hasSize(200);
+        assertThat(pageThrough(200)).containsExactlyElementsOf(expectedIds());
+    }
+
+    @Test
+    void invalidLimitIsRejected() {
+        addPost(1, now.minusDays(1));
+
+        assertThatThrownBy(() -> postService.getRecentPosts(null, null, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("limit must be between 1 and 200");
+        assertThatThrownBy(() -> postService.getRecentPosts(null, null, 201))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(postRepository, never()).findPageBefore(any(), any(), any(), any());
+    }
+
+    /**
+     * Follows the (createdAt, id) cursor like a client until a page comes back
+     * empty, and returns the ids of every post received in order.
+     */
+    private List<Long> pageThrough(int limit) {
+        List<Long> received = new ArrayList<>();
+        LocalDateTime before = null;
+        Long beforeId = null;
+        while (true) {
+            List<PostDto.PostResponse> page = postService.getRecentPosts(before, beforeId, limit);
+            assertThat(page).hasSizeLessThanOrEqualTo(limit);
+            if (page.isEmpty()) return received;
+            received.addAll(ids(page));
+            PostDto.PostResponse last = page.get(page.size() - 1);
+            before = LocalDateTime.parse(last.getCreatedAt());
+            beforeId = last.getId();
+        }
+    }
+
+    private List<Long> expectedIds() {
+        return posts.stream().sorted(NEWEST_FIRST).map(Post::getId).collect(Collectors.toList());
+    }
+
+    private void addPost(long id, LocalDateTime createdAt) {
+        posts.add(Post.builder().id(id).userId(1L).content("post " + id).createdAt(createdAt).build());
+    }
+
+    // Mirrors PostRepository.findPageBefore
+    private List<Post> findPageBefore(LocalDateTime from, LocalDateTime before, Long beforeId, Limit limit) {
+        return posts.stream()
+                .filter(post -> !post.getCreatedAt().isBefore(from) && !post.getCreatedAt().isAfter(before))
+                .filter(post -> post.getCreatedAt().isBefore(before) || post.getId() < beforeId)
+                .sorted(NEWEST_FIRST)
+                .limit(limit.max())
+                .collect(Collectors.toList());
+    }
+
+    // Mirrors PostRepository.findLatestCreatedAtBefore
+    private Optional<LocalDateTime> findLatestCreatedAtBefore(LocalDateTime before) {
+        return posts.stream()
+                .map(Post::getCreatedAt)
+                .filter(createdAt -> createdAt.isBefore(before))
+                .max(Comparator.naturalOrder());
+    }
+
+    private static List<Long> ids(List<PostDto.PostResponse> page) {
+        return page.stream().map(PostDto.PostResponse::getId).collect(Collectors.toList());
+    }
+}
@@ -40,6 +40,13 @@ public class UserController {
         return ResponseEntity.ok(userService.getUserById(id));
     }
 
+    // POST /users/batch — Get several users by ID in one call (unknown ids are omitted)
+    @PostMapping("/batch")
+    public ResponseEntity<List<UserDto.UserResponse>> getUsersByIds(
+            @Valid @RequestBody UserDto.BatchGetRequest request) {
+        return ResponseEntity.ok(userService.getUsersByIds(request.getIds()));
+    }
+
     // GET /users/username/{username} — Get user by username
     @GetMapping("/username/{username}")
     public ResponseEntity<UserDto.UserResponse> getUserByUsername(@PathVariable String username) {
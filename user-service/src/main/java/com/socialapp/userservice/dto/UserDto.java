@@ -2,9 +2,13 @@ package com.socialapp.userservice.dto;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
 
+import java.util.List;
+
 public class UserDto {
 
     @Data
@@ -35,6 +39,14 @@ public class UserDto {
         private String bio;
     }
 
+    @Data
+    public static class BatchGetRequest {
+
+        @NotEmpty(message = "ids must not be empty")
+        @Size(max = 100, message = "Cannot fetch more than 100 users at once")
+        private List<@NotNull(message = "ids must not contain null") Long> ids;
+    }
+
     @Data
     public static class UserResponse {
         private Long id;
@@ -8,6 +8,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -55,6 +56,18 @@ public class UserService {
         return toResponse(user);
     }
 
+    /**
+     * Fetch several users with a single IN query. Unknown ids are skipped, so
+     * callers should key the result by id rather than rely on its order.
+     */
+    @Transactional(readOnly = true)
+    public List<UserDto.UserResponse> getUsersByIds(List<Long> ids) {
+        return userRepository.findAllById(new LinkedHashSet<>(ids))
+                .stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+    }
+
     @Transactional(readOnly = true)
     public List<UserDto.UserResponse> getAllUsers() {
         return userRepository.findAll()
@@ -0,0 +1,9 @@
+-- Initial schema, matching what ddl-auto=update generated from User
+CREATE TABLE users (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username     VARCHAR(50)  NOT NULL UNIQUE,
+    email        VARCHAR(100) NOT NULL UNIQUE,
+    display_name VARCHAR(100),
+    bio          VARCHAR(250),
+    created_at   TIMESTAMP(6) NOT NULL
+);